@@ -0,0 +1,78 @@
+package com.urlshortener.config;
+
+import com.urlshortener.config.ReplicaDataSourceProperties.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  public ReadReplicaRoutingDataSource routingDataSource(
+      HikariDataSource primaryDataSource,
+      DataSourceProperties primaryProperties,
+      ReplicaDataSourceProperties replicaProperties) {
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    List<Replica> configured = replicaProperties.replicas();
+    for (int i = 0; i < configured.size(); i++) {
+      Replica replica = configured.get(i);
+      HikariDataSource dataSource =
+          DataSourceBuilder.create()
+              .type(HikariDataSource.class)
+              .driverClassName(primaryProperties.determineDriverClassName())
+              .url(replica.url())
+              .username(replica.username())
+              .password(replica.password())
+              .build();
+      dataSource.setPoolName("replica-" + i);
+      dataSource.setConnectionTimeout(replicaProperties.replicaConnectionTimeout().toMillis());
+      dataSource.setMaximumPoolSize(replicaProperties.replicaMaximumPoolSize());
+      replicas.put("replica-" + i, dataSource);
+    }
+
+    return new ReadReplicaRoutingDataSource(
+        primaryDataSource,
+        replicas,
+        replicaProperties.maxReplicaLag(),
+        replicaProperties.replicaLagQuery(),
+        replicaProperties.replicaCheckInterval());
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  @Bean
+  public SchedulingConfigurer replicaHealthCheck(ReadReplicaRoutingDataSource routingDataSource) {
+    // Replicas start out available, so the first check waits a full interval
+    Duration interval = routingDataSource.getReplicaCheckInterval();
+    return registrar ->
+        registrar.addFixedDelayTask(
+            new FixedDelayTask(routingDataSource::checkReplicas, interval, interval));
+  }
+}
@@ -0,0 +1,168 @@
+package com.urlshortener.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for read-only transactions to a replica, round-robin, and everything else to
+ * the primary. A replica that cannot hand out a connection is skipped in favour of the primary
+ * until {@link #checkReplicas()} finds it healthy again.
+ *
+ * <p>Lag is only measured when a lag query is configured; without one, the check only verifies
+ * that the replica is reachable.
+ *
+ * <p>Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the connection is only fetched once the transaction's read-only flag has been set.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+  private final DataSource primary;
+  private final List<ReplicaTarget> replicas = new ArrayList<>();
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final Duration maxReplicaLag;
+  private final String replicaLagQuery;
+  private final Duration replicaCheckInterval;
+
+  public ReadReplicaRoutingDataSource(
+      DataSource primary,
+      Map<String, DataSource> replicas,
+      Duration maxReplicaLag,
+      String replicaLagQuery,
+      Duration replicaCheckInterval) {
+    this.primary = primary;
+    this.maxReplicaLag = maxReplicaLag;
+    this.replicaLagQuery = replicaLagQuery;
+    this.replicaCheckInterval = replicaCheckInterval;
+    replicas.forEach((key, dataSource) -> this.replicas.add(new ReplicaTarget(key, dataSource)));
+  }
+
+  public boolean hasReplicas() {
+    return !replicas.isEmpty();
+  }
+
+  public Duration getReplicaCheckInterval() {
+    return replicaCheckInterval;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return route(DataSource::getConnection);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return route(dataSource -> dataSource.getConnection(username, password));
+  }
+
+  public void checkReplicas() {
+    for (ReplicaTarget replica : replicas) {
+      boolean available;
+      try {
+        available = isInSync(replica);
+      } catch (RuntimeException ex) {
+        log.warn("Health check failed for replica {}: {}", replica.key, ex.getMessage());
+        available = false;
+      }
+      if (available != replica.available) {
+        log.info("Replica {} is now {}", replica.key, available ? "available" : "unavailable");
+      }
+      replica.available = available;
+    }
+  }
+
+  /** Closes the replica pools; the primary is a separate bean with its own lifecycle. */
+  @Override
+  public void close() {
+    for (ReplicaTarget replica : replicas) {
+      if (replica.dataSource instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception ex) {
+          log.warn("Failed to close replica {}: {}", replica.key, ex.getMessage());
+        }
+      }
+    }
+  }
+
+  private Connection route(ConnectionSource source) throws SQLException {
+    ReplicaTarget replica = selectReplica();
+    if (replica == null) {
+      return source.open(primary);
+    }
+    try {
+      return source.open(replica.dataSource);
+    } catch (SQLException ex) {
+      log.warn("Replica {} unavailable, falling back to primary: {}", replica.key, ex.getMessage());
+      replica.available = false;
+      return source.open(primary);
+    }
+  }
+
+  private ReplicaTarget selectReplica() {
+    if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return null;
+    }
+    int start = nextReplica.getAndIncrement();
+    for (int i = 0; i < replicas.size(); i++) {
+      ReplicaTarget replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+      if (replica.available) {
+        return replica;
+      }
+    }
+    return null;
+  }
+
+  private boolean isInSync(ReplicaTarget replica) {
+    try (Connection connection = replica.dataSource.getConnection()) {
+      if (replicaLagQuery == null || replicaLagQuery.isBlank()) {
+        return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+      }
+      try (Statement statement = connection.createStatement();
+          ResultSet resultSet = statement.executeQuery(replicaLagQuery)) {
+        if (!resultSet.next()) {
+          return false;
+        }
+        double lagSeconds = resultSet.getDouble(1);
+        if (resultSet.wasNull()) {
+          return false;
+        }
+        return lagSeconds * 1000 <= maxReplicaLag.toMillis();
+      }
+    } catch (SQLException ex) {
+      log.warn("Health check failed for replica {}: {}", replica.key, ex.getMessage());
+      return false;
+    }
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSource {
+
+    Connection open(DataSource dataSource) throws SQLException;
+  }
+
+  private static final class ReplicaTarget {
+
+    private final String key;
+    private final DataSource dataSource;
+    private volatile boolean available = true;
+
+    private ReplicaTarget(String key, DataSource dataSource) {
+      this.key = key;
+      this.dataSource = dataSource;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.urlshortener.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replica settings bound from {@code app.datasource}. The primary datasource is still
+ * configured through the standard {@code spring.datasource} properties.
+ */
+@ConfigurationProperties(prefix = "app.datasource")
+public record ReplicaDataSourceProperties(
+    List<Replica> replicas,
+    Duration maxReplicaLag,
+    String replicaLagQuery,
+    Duration replicaCheckInterval,
+    Duration replicaConnectionTimeout,
+    Integer replicaMaximumPoolSize) {
+
+  private static final Duration DEFAULT_MAX_REPLICA_LAG = Duration.ofSeconds(5);
+  private static final Duration DEFAULT_REPLICA_CHECK_INTERVAL = Duration.ofSeconds(5);
+  private static final Duration DEFAULT_REPLICA_CONNECTION_TIMEOUT = Duration.ofMillis(500);
+  private static final int DEFAULT_REPLICA_MAXIMUM_POOL_SIZE = 10;
+
+  public ReplicaDataSourceProperties {
+    replicas = replicas == null ? List.of() : List.copyOf(replicas);
+    maxReplicaLag = maxReplicaLag == null ? DEFAULT_MAX_REPLICA_LAG : maxReplicaLag;
+    replicaCheckInterval =
+        replicaCheckInterval == null ? DEFAULT_REPLICA_CHECK_INTERVAL : replicaCheckInterval;
+    replicaConnectionTimeout =
+        replicaConnectionTimeout == null
+            ? DEFAULT_REPLICA_CONNECTION_TIMEOUT
+            : replicaConnectionTimeout;
+    replicaMaximumPoolSize =
+        replicaMaximumPoolSize == null ? DEFAULT_REPLICA_MAXIMUM_POOL_SIZE : replicaMaximumPoolSize;
+  }
+
+  public record Replica(String url, String username, String password) {}
+}
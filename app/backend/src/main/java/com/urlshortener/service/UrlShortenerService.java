@@ -1,5 +1,6 @@
 package com.urlshortener.service;
 
+import com.urlshortener.config.ReadReplicaRoutingDataSource;
 import com.urlshortener.exception.AliasAlreadyExistsException;
 import com.urlshortener.exception.AliasNotFoundException;
 import com.urlshortener.model.ShortenUrlRequest;
@@ -9,12 +10,15 @@ import com.urlshortener.model.UrlDto;
 import com.urlshortener.repository.ShortenedUrlRepository;
 import java.security.SecureRandom;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -28,6 +32,8 @@ public class UrlShortenerService {
   private static final SecureRandom RANDOM = new SecureRandom();
 
   private final ShortenedUrlRepository repository;
+  private final PlatformTransactionManager transactionManager;
+  private final ReadReplicaRoutingDataSource routingDataSource;
 
   @Value("${app.base-url}")
   private String baseUrl;
@@ -50,10 +56,14 @@ public class UrlShortenerService {
     return new ShortenUrlResponse(baseUrl + "/" + alias);
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * Resolves the alias on a replica when one is configured. A miss is retried on the primary once
+   * the read-only transaction has finished, so an alias created a moment ago still resolves while
+   * the replica catches up.
+   */
   public String getFullUrl(String alias) {
-    return repository
-        .findByAlias(alias)
+    return findByAlias(alias, true)
+        .or(() -> routingDataSource.hasReplicas() ? findByAlias(alias, false) : Optional.empty())
         .map(ShortenedUrl::getFullUrl)
         .orElseThrow(() -> new AliasNotFoundException("Alias '" + alias + "' not found"));
   }
@@ -76,6 +86,12 @@ public class UrlShortenerService {
         .collect(Collectors.toList());
   }
 
+  private Optional<ShortenedUrl> findByAlias(String alias, boolean readOnly) {
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setReadOnly(readOnly);
+    return template.execute(status -> repository.findByAlias(alias));
+  }
+
   private String determineAlias(String customAlias) {
     if (customAlias != null && !customAlias.isBlank()) {
       return customAlias;
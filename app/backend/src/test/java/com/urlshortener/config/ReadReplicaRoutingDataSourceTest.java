@@ -0,0 +1,119 @@
+package com.urlshortener.config;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadReplicaRoutingDataSourceTest {
+
+  private static final String LAG_QUERY = "SELECT lag";
+
+  private DataSource primary;
+  private DataSource replica;
+  private Connection primaryConnection;
+  private Connection replicaConnection;
+  private ReadReplicaRoutingDataSource routingDataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    primary = mock(DataSource.class);
+    replica = mock(DataSource.class);
+    primaryConnection = mock(Connection.class);
+    replicaConnection = mock(Connection.class);
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    when(replica.getConnection()).thenReturn(replicaConnection);
+
+    routingDataSource =
+        new ReadReplicaRoutingDataSource(
+            primary,
+            Map.of("replica-0", replica),
+            Duration.ofSeconds(5),
+            LAG_QUERY,
+            Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  void shouldRouteWritesToPrimary() throws Exception {
+    assertSame(primaryConnection, routingDataSource.getConnection());
+  }
+
+  @Test
+  void shouldRouteReadOnlyTransactionsToReplica() throws Exception {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertSame(replicaConnection, routingDataSource.getConnection());
+  }
+
+  @Test
+  void shouldFallBackToPrimaryWhenReplicaIsUnreachable() throws Exception {
+    when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertSame(primaryConnection, routingDataSource.getConnection());
+  }
+
+  @Test
+  void shouldFallBackToPrimaryWithCredentialsWhenReplicaIsUnreachable() throws Exception {
+    when(replica.getConnection("user", "secret"))
+        .thenThrow(new SQLException("Connection refused"));
+    when(primary.getConnection("user", "secret")).thenReturn(primaryConnection);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertSame(primaryConnection, routingDataSource.getConnection("user", "secret"));
+  }
+
+  @Test
+  void shouldMarkReplicaUnavailableWhenHealthCheckThrows() throws Exception {
+    when(replicaConnection.createStatement()).thenThrow(new IllegalStateException("Pool closed"));
+    routingDataSource.checkReplicas();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertSame(primaryConnection, routingDataSource.getConnection());
+  }
+
+  @Test
+  void shouldFallBackToPrimaryWhenReplicaIsLagging() throws Exception {
+    stubReplicaLag(30);
+    routingDataSource.checkReplicas();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertSame(primaryConnection, routingDataSource.getConnection());
+  }
+
+  @Test
+  void shouldRouteToReplicaAgainOnceCaughtUp() throws Exception {
+    stubReplicaLag(30);
+    routingDataSource.checkReplicas();
+    stubReplicaLag(1);
+    routingDataSource.checkReplicas();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertSame(replicaConnection, routingDataSource.getConnection());
+  }
+
+  private void stubReplicaLag(double lagSeconds) throws SQLException {
+    Statement statement = mock(Statement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(replicaConnection.createStatement()).thenReturn(statement);
+    when(statement.executeQuery(LAG_QUERY)).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true);
+    when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+  }
+}
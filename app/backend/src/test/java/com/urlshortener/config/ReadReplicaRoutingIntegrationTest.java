@@ -0,0 +1,123 @@
+package com.urlshortener.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.urlshortener.model.ShortenUrlRequest;
+import com.urlshortener.model.UrlDto;
+import com.urlshortener.service.UrlShortenerService;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:url-primary;DB_CLOSE_DELAY=-1",
+      "app.datasource.replicas[0].url=jdbc:h2:mem:url-replica;IFEXISTS=TRUE",
+      "app.datasource.replicas[0].username=sa",
+      "app.datasource.replica-check-interval=1h"
+    })
+class ReadReplicaRoutingIntegrationTest {
+
+  private static final String PRIMARY_URL = "jdbc:h2:mem:url-primary";
+  private static final String REPLICA_URL = "jdbc:h2:mem:url-replica;DB_CLOSE_DELAY=-1";
+
+  @Autowired
+  private UrlShortenerService service;
+
+  @Autowired
+  private ReadReplicaRoutingDataSource routingDataSource;
+
+  @BeforeEach
+  void copyPrimarySchemaToReplica() throws SQLException {
+    // The replica is deliberately not kept in sync, so each read reveals which database served it
+    List<String> ddl = new ArrayList<>();
+    try (Connection connection = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SCRIPT NODATA")) {
+      while (resultSet.next()) {
+        ddl.add(resultSet.getString(1));
+      }
+    }
+    try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP ALL OBJECTS");
+      for (String sql : ddl) {
+        statement.execute(sql);
+      }
+    }
+  }
+
+  @Test
+  void shouldRouteWritesToPrimaryAndReadsToReplica() throws Exception {
+    insertOnReplica("routing-replica", "https://replica.example.com");
+    service.shortenUrl(new ShortenUrlRequest("https://example.com/primary", "routing-write"));
+
+    assertTrue(containsAlias(PRIMARY_URL, "routing-write"));
+    assertFalse(containsAlias(REPLICA_URL, "routing-write"));
+
+    assertEquals("https://replica.example.com", service.getFullUrl("routing-replica"));
+    List<String> aliases = service.getAllUrls().stream().map(UrlDto::alias).toList();
+    assertTrue(aliases.contains("routing-replica"));
+    assertFalse(aliases.contains("routing-write"));
+  }
+
+  @Test
+  void shouldResolveAliasMissingFromReplicaOnPrimary() {
+    service.shortenUrl(new ShortenUrlRequest("https://example.com/fresh", "routing-fresh"));
+
+    assertEquals("https://example.com/fresh", service.getFullUrl("routing-fresh"));
+  }
+
+  @Test
+  @DirtiesContext
+  void shouldFallBackToPrimaryWhenReplicaIsDown() throws Exception {
+    insertOnReplica("routing-stale", "https://replica.example.com/stale");
+    service.shortenUrl(new ShortenUrlRequest("https://example.com/down", "routing-down"));
+
+    try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+        Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    }
+    routingDataSource.checkReplicas();
+
+    List<String> aliases = service.getAllUrls().stream().map(UrlDto::alias).toList();
+    assertTrue(aliases.contains("routing-down"));
+    assertFalse(aliases.contains("routing-stale"));
+  }
+
+  private void insertOnReplica(String alias, String fullUrl) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+        PreparedStatement statement =
+            connection.prepareStatement(
+                "INSERT INTO shortened_urls (alias, full_url, created_at) "
+                    + "VALUES (?, ?, CURRENT_TIMESTAMP)")) {
+      statement.setString(1, alias);
+      statement.setString(2, fullUrl);
+      statement.executeUpdate();
+    }
+  }
+
+  private boolean containsAlias(String url, String alias) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(url, "sa", "");
+        PreparedStatement statement =
+            connection.prepareStatement("SELECT COUNT(*) FROM shortened_urls WHERE alias = ?")) {
+      statement.setString(1, alias);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getInt(1) > 0;
+      }
+    }
+  }
+}
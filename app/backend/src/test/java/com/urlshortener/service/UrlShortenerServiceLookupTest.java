@@ -0,0 +1,35 @@
+package com.urlshortener.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.urlshortener.exception.AliasNotFoundException;
+import com.urlshortener.repository.ShortenedUrlRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+// A single-connection pool fails fast if a lookup ever needs two connections at once
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:url-lookup;DB_CLOSE_DELAY=-1",
+      "spring.datasource.hikari.maximum-pool-size=1",
+      "spring.datasource.hikari.connection-timeout=250"
+    })
+class UrlShortenerServiceLookupTest {
+
+  @Autowired
+  private UrlShortenerService service;
+
+  @SpyBean
+  private ShortenedUrlRepository repository;
+
+  @Test
+  void shouldQueryOnceForUnknownAliasWithoutReplicas() {
+    assertThrows(AliasNotFoundException.class, () -> service.getFullUrl("favicon.ico"));
+
+    verify(repository, times(1)).findByAlias("favicon.ico");
+  }
+}